@@ -0,0 +1,204 @@
+package datastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous facade over a {@link RedBlackTree} for many concurrent callers, e.g. virtual threads.
+ * Requests are gathered into batches and a single owner thread applies each batch to the tree in key order,
+ * so callers never contend on a lock. Requests for the same key are applied in submission order.
+ * Futures are completed on the owner thread once the whole batch is applied,
+ * heavy dependent stages should be attached with the {@code *Async} methods.
+ */
+public class AsyncRedBlackTreeService<K,V> implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private static final Duration DEFAULT_LINGER = Duration.ofNanos(50_000);
+
+    private final RedBlackTree<K,V> tree;
+
+    private final Comparator<Request<K,V>> requestComparator;
+
+    private final int maxBatchSize;
+
+    private final long lingerNanos;
+
+    private final BlockingQueue<Request<K,V>> requests = new LinkedBlockingQueue<>();
+
+    private final Thread owner;
+
+    private volatile boolean closed;
+
+    public AsyncRedBlackTreeService(Comparator<K> comparator) {
+        this(comparator, DEFAULT_MAX_BATCH_SIZE, DEFAULT_LINGER);
+    }
+
+    /**
+     * @param comparator key comparator.
+     * @param maxBatchSize maximum number of requests applied in a single batch.
+     * @param linger maximum time to wait for more requests once the first request of a batch arrived.
+     * @throws IllegalArgumentException if the batch size is not positive or the linger is negative.
+     */
+    public AsyncRedBlackTreeService(Comparator<K> comparator, int maxBatchSize, Duration linger) {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        if (linger.isNegative())
+            throw new IllegalArgumentException("Linger must not be negative: " + linger);
+
+        this.tree = new RedBlackTree<>(comparator);
+        this.requestComparator = (r1, r2) -> comparator.compare(r1.key, r2.key);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.owner = new Thread(this::applyRequests, "async-red-black-tree-owner");
+        this.owner.setDaemon(true);
+        this.owner.start();
+    }
+
+    /**
+     * Submits a search for the value associated with the passed key.
+     * @param key search key.
+     * @return future of the {@code Optional} value associated with the key.
+     * @throws NullPointerException if the provided key is null.
+     * @throws IllegalStateException if the service is closed.
+     */
+    public CompletableFuture<Optional<V>> search(K key) {
+        Objects.requireNonNull(key, "Cannot search null key");
+        return submit(new Request<>(key, null, false));
+    }
+
+    /**
+     * Submits the provided key and value for insertion.
+     * If the specified key already exists in the tree, the new value replaces the old one.
+     * @param key key to determine the value.
+     * @param value value to store.
+     * @return future completed once the value is stored.
+     * @throws NullPointerException if the provided key is null.
+     * @throws IllegalStateException if the service is closed.
+     */
+    public CompletableFuture<Void> insert(K key, V value) {
+        Objects.requireNonNull(key, "Cannot save null key");
+        return submit(new Request<K,V>(key, value, true)).thenApply(v -> null);
+    }
+
+    /**
+     * Stops the owner thread. Requests that have not been applied yet are completed exceptionally.
+     * The service is also closed by the owner thread itself if applying a batch throws an {@link Error}.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.owner.interrupt();
+        try {
+            this.owner.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectPendingRequests();
+    }
+
+    private CompletableFuture<Optional<V>> submit(Request<K,V> request) {
+        if (this.closed)
+            throw new IllegalStateException("Service is closed");
+
+        this.requests.add(request);
+        if (this.closed && this.requests.remove(request))
+            request.future.completeExceptionally(new IllegalStateException("Service is closed"));
+
+        return request.future;
+    }
+
+    private void applyRequests() {
+        List<Request<K,V>> batch = new ArrayList<>(this.maxBatchSize);
+        while (!this.closed) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                batch.forEach(r -> r.future.completeExceptionally(new IllegalStateException("Service is closed")));
+                return;
+            }
+
+            try {
+                // List.sort is stable, so requests for the same key keep their submission order.
+                batch.sort(this.requestComparator);
+                batch.forEach(this::apply);
+                batch.forEach(this::complete);
+            } catch (RuntimeException e) {
+                batch.forEach(r -> r.future.completeExceptionally(e));
+            } catch (Throwable e) {
+                // An Error may leave the tree half-modified, so the service stops instead of applying more requests.
+                this.closed = true;
+                batch.forEach(r -> r.future.completeExceptionally(e));
+                rejectPendingRequests();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void collectBatch(List<Request<K,V>> batch) throws InterruptedException {
+        batch.add(this.requests.take());
+        long deadline = System.nanoTime() + this.lingerNanos;
+        while (batch.size() < this.maxBatchSize) {
+            this.requests.drainTo(batch, this.maxBatchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= this.maxBatchSize || remainingNanos <= 0)
+                return;
+
+            Request<K,V> request = this.requests.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (request == null)
+                return;
+            batch.add(request);
+        }
+    }
+
+    private void apply(Request<K,V> request) {
+        try {
+            if (request.isInsert) {
+                this.tree.insert(request.key, request.value);
+            } else {
+                request.result = this.tree.search(request.key);
+            }
+        } catch (RuntimeException e) {
+            request.failure = e;
+        }
+    }
+
+    private void complete(Request<K,V> request) {
+        if (request.failure != null) {
+            request.future.completeExceptionally(request.failure);
+        } else {
+            request.future.complete(request.result);
+        }
+    }
+
+    private void rejectPendingRequests() {
+        List<Request<K,V>> pending = new ArrayList<>();
+        this.requests.drainTo(pending);
+        pending.forEach(r -> r.future.completeExceptionally(new IllegalStateException("Service is closed")));
+    }
+
+    private static class Request<K,V> {
+        private final K key;
+        private final V value;
+        private final boolean isInsert;
+        private final CompletableFuture<Optional<V>> future = new CompletableFuture<>();
+        private Optional<V> result;
+        private RuntimeException failure;
+
+        Request(K key, V value, boolean isInsert) {
+            this.key = key;
+            this.value = value;
+            this.isInsert = isInsert;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package datastructure;
+
+/**
+ * Single change of a tree published to a {@link ChangeFeed}.
+ * @param sequence position of the event in the feed.
+ * @param type kind of the change.
+ * @param key changed key.
+ * @param value new value for inserts and updates, removed value for deletes.
+ * @param <K> key type.
+ * @param <V> value type.
+ */
+public record ChangeEvent<K,V>(long sequence, Type type, K key, V value) {
+
+    public enum Type {
+        /**
+         * A new key was added.
+         */
+        INSERT,
+        /**
+         * The value of an existing key was replaced.
+         */
+        UPDATE,
+        /**
+         * A key was removed.
+         */
+        DELETE
+    }
+}
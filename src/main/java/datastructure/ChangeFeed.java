@@ -0,0 +1,119 @@
+package datastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded ring buffer of tree changes, numbered by consecutive sequence numbers starting from 0.
+ * Changes are published by the single thread that modifies the tree, any number of consumers drain them concurrently.
+ * Each consumer keeps the sequence it has to continue from. When the buffer wraps around, the oldest
+ * changes are overwritten, and a consumer that fell behind them gets a {@link OverrunException}
+ * and has to rescan the tree before resuming from {@link #nextSequence()} taken before the rescan.
+ */
+public class ChangeFeed<K,V> {
+
+    private final AtomicReferenceArray<ChangeEvent<K,V>> events;
+
+    private volatile long nextSequence;
+
+    /**
+     * @param capacity number of the latest changes kept in the feed.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public ChangeFeed(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+        this.events = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return sequence number the next published change will get.
+     */
+    public long nextSequence() {
+        return this.nextSequence;
+    }
+
+    /**
+     * @return sequence number of the oldest change still kept in the feed.
+     */
+    public long oldestSequence() {
+        return Math.max(0, this.nextSequence - this.events.length());
+    }
+
+    /**
+     * Passes up to {@code maxEvents} changes starting from the provided sequence to the consumer, in order.
+     * @param fromSequence sequence of the first change to consume.
+     * @param maxEvents maximum number of changes to consume.
+     * @param consumer function to be performed on each change.
+     * @return sequence to continue from on the next call.
+     * @throws OverrunException if some of the requested changes have already been overwritten.
+     * @throws IllegalArgumentException if the sequence is negative or has not been published yet,
+     *         or if maxEvents is not positive.
+     */
+    public long drain(long fromSequence, int maxEvents, Consumer<ChangeEvent<K,V>> consumer) {
+        if (maxEvents <= 0)
+            throw new IllegalArgumentException("Max events must be positive: " + maxEvents);
+
+        if (fromSequence < 0)
+            throw new IllegalArgumentException("Sequence must not be negative: " + fromSequence);
+
+        long publishedSequence = this.nextSequence;
+        if (fromSequence > publishedSequence)
+            throw new IllegalArgumentException("Sequence " + fromSequence + " has not been published yet");
+
+        long toSequence = Math.min(publishedSequence, fromSequence + maxEvents);
+        List<ChangeEvent<K,V>> batch = new ArrayList<>((int) (toSequence - fromSequence));
+        for (long sequence = fromSequence; sequence < toSequence; sequence++) {
+            ChangeEvent<K,V> event = this.events.get(index(sequence));
+            if (event == null || event.sequence() != sequence)
+                throw new OverrunException(fromSequence, oldestSequence());
+            batch.add(event);
+        }
+
+        batch.forEach(consumer);
+        return toSequence;
+    }
+
+    /**
+     * Appends a change to the feed, overwriting the oldest one if the feed is full.
+     * Must be called by a single thread.
+     */
+    void publish(ChangeEvent.Type type, K key, V value) {
+        long sequence = this.nextSequence;
+        this.events.set(index(sequence), new ChangeEvent<>(sequence, type, key, value));
+        this.nextSequence = sequence + 1;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % this.events.length());
+    }
+
+    /**
+     * Thrown when a consumer requests changes that have already been overwritten.
+     */
+    public static class OverrunException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long requestedSequence;
+
+        private final long oldestSequence;
+
+        OverrunException(long requestedSequence, long oldestSequence) {
+            super("Sequence " + requestedSequence + " has been overwritten, oldest available is " + oldestSequence);
+            this.requestedSequence = requestedSequence;
+            this.oldestSequence = oldestSequence;
+        }
+
+        public long getRequestedSequence() {
+            return this.requestedSequence;
+        }
+
+        public long getOldestSequence() {
+            return this.oldestSequence;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package datastructure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Left-leaning Red–Black Tree for read-dominant workloads.
+ * Readers traverse the last published root without any locking.
+ * Writers submit their changes to a single writer thread which applies them in batches
+ * to copies of the touched paths and then publishes the new root through a volatile store.
+ * Published nodes are never modified.
+ * The batches are applied by {@link LeftLeaningRedBlackTree} which copies published nodes before modifying them.
+ */
+public class CopyOnWriteRedBlackTree<K,V> implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+    private final DraftTree<K,V> draft;
+
+    private final int maxBatchSize;
+
+    private final BlockingQueue<Mutation<K,V>> submissions = new LinkedBlockingQueue<>();
+
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    /**
+     * Number of published roots. Written by the writer thread only.
+     */
+    private volatile long publishedBatches;
+
+    protected volatile LeftLeaningRedBlackTree.Node<K,V> root;
+
+    public CopyOnWriteRedBlackTree(Comparator<K> comparator) {
+        this(comparator, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param comparator key comparator.
+     * @param maxBatchSize maximum number of changes published with a single root.
+     * @throws IllegalArgumentException if the batch size is not positive.
+     */
+    public CopyOnWriteRedBlackTree(Comparator<K> comparator, int maxBatchSize) {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+
+        this.draft = new DraftTree<>(comparator);
+        this.maxBatchSize = maxBatchSize;
+        this.writer = new Thread(this::applySubmissions, "copy-on-write-red-black-tree-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Submits the provided key and value for insertion.
+     * If the specified key already exists in the tree, the new value replaces the old one.
+     * @param key key to determine the value.
+     * @param value value to store.
+     * @return future completed once a root containing the change is published.
+     * @throws NullPointerException if the provided key is null.
+     * @throws IllegalStateException if the tree is closed.
+     */
+    public CompletableFuture<Void> insert(K key, V value) {
+        Objects.requireNonNull(key, "Cannot save null key");
+        return submit(new Mutation<>(key, value, false));
+    }
+
+    /**
+     * Submits the provided key for removal.
+     * @param key key to remove.
+     * @return future completed once a root without the key is published.
+     * @throws NullPointerException if the provided key is null.
+     * @throws IllegalStateException if the tree is closed.
+     */
+    public CompletableFuture<Void> delete(K key) {
+        Objects.requireNonNull(key, "Cannot delete null key");
+        return submit(new Mutation<>(key, null, true));
+    }
+
+    /**
+     * Returns the {@code Optional} value associated with the passed key in the last published root.
+     * Never blocks and never waits for the writer.
+     * @param key search key.
+     * @return {@code Optional} value associated with the key.
+     */
+    public Optional<V> search(K key) {
+        LeftLeaningRedBlackTree.Node<K, V> node = this.draft.findNode(this.root, key);
+        return node == null ? Optional.empty() : Optional.of(node.value);
+    }
+
+    /**
+     * Traverses all nodes of the last published root using the BFS algorithm.
+     * The passed consumer performs its operation on each node.
+     * @param consumer function to be performed on each node.
+     */
+    public void breadthFirstSearch(Consumer<LeftLeaningRedBlackTree.Node<K,V>> consumer) {
+        LeftLeaningRedBlackTree.Node<K, V> snapshot = this.root;
+        if (snapshot == null)
+            return;
+
+        Queue<LeftLeaningRedBlackTree.Node<K,V>> nodeQueue = new LinkedList<>();
+        nodeQueue.add(snapshot);
+        while (!nodeQueue.isEmpty()) {
+            LeftLeaningRedBlackTree.Node<K,V> currentNode = nodeQueue.poll();
+            consumer.accept(currentNode);
+
+            if (currentNode.leftChild != null)
+                nodeQueue.add(currentNode.leftChild);
+
+            if (currentNode.rightChild != null)
+                nodeQueue.add(currentNode.rightChild);
+        }
+    }
+
+    /**
+     * Stops the writer thread. Changes that have not been published yet are completed exceptionally.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.writer.interrupt();
+        try {
+            this.writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectPendingSubmissions();
+    }
+
+    /**
+     * @return number of roots published so far.
+     */
+    long publishedBatches() {
+        return this.publishedBatches;
+    }
+
+    private CompletableFuture<Void> submit(Mutation<K,V> mutation) {
+        if (this.closed)
+            throw new IllegalStateException("Tree is closed");
+
+        this.submissions.add(mutation);
+        if (this.closed && this.submissions.remove(mutation))
+            mutation.future.completeExceptionally(new IllegalStateException("Tree is closed"));
+
+        return mutation.future;
+    }
+
+    private void applySubmissions() {
+        List<Mutation<K,V>> batch = new ArrayList<>(this.maxBatchSize);
+        while (!this.closed) {
+            try {
+                batch.add(this.submissions.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            this.submissions.drainTo(batch, this.maxBatchSize - 1);
+
+            // Errors are handled like exceptions: the draft is dropped and the published root stays intact,
+            // so the writer keeps serving the following batches.
+            try {
+                publish(batch);
+                batch.forEach(m -> m.future.complete(null));
+            } catch (Throwable e) {
+                applyOneByOne(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Applies the mutations of a failed batch separately, so that only the failing ones are completed exceptionally.
+     */
+    private void applyOneByOne(List<Mutation<K,V>> batch) {
+        for (Mutation<K,V> mutation : batch) {
+            try {
+                publish(List.of(mutation));
+                mutation.future.complete(null);
+            } catch (Throwable e) {
+                mutation.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void publish(List<Mutation<K,V>> mutations) {
+        this.root = this.draft.apply(this.root, mutations);
+        this.publishedBatches++;
+    }
+
+    private void rejectPendingSubmissions() {
+        List<Mutation<K,V>> pending = new ArrayList<>();
+        this.submissions.drainTo(pending);
+        pending.forEach(m -> m.future.completeExceptionally(new IllegalStateException("Tree is closed")));
+    }
+
+    /**
+     * Engine which applies batches on top of a published root.
+     * Nodes created by the current batch are modified in place, published ones are copied first.
+     * Accessed by the writer thread only, except {@link #findNode(LeftLeaningRedBlackTree.Node, Object)}
+     * which never modifies anything.
+     */
+    private static class DraftTree<K,V> extends LeftLeaningRedBlackTree<K,V> {
+
+        /**
+         * Identifies the nodes created by the batch being applied.
+         */
+        private Object batchOwner;
+
+        DraftTree(Comparator<K> comparator) {
+            super(comparator);
+        }
+
+        LeftLeaningRedBlackTree.Node<K,V> apply(LeftLeaningRedBlackTree.Node<K,V> publishedRoot,
+                                                List<Mutation<K,V>> batch) {
+            this.batchOwner = new Object();
+            this.root = publishedRoot;
+            for (Mutation<K,V> mutation : batch) {
+                if (mutation.isDelete) {
+                    delete(mutation.key);
+                } else {
+                    insert(mutation.key, mutation.value);
+                }
+            }
+            return this.root;
+        }
+
+        @Override
+        protected LeftLeaningRedBlackTree.Node<K,V> editable(LeftLeaningRedBlackTree.Node<K,V> node) {
+            if (((OwnedNode<K,V>) node).owner == this.batchOwner)
+                return node;
+
+            OwnedNode<K,V> copy = new OwnedNode<>(node.key, node.value, this.batchOwner);
+            copy.leftChild = node.leftChild;
+            copy.rightChild = node.rightChild;
+            copy.isBlack = node.isBlack;
+            return copy;
+        }
+
+        @Override
+        protected LeftLeaningRedBlackTree.Node<K,V> createNode(K key, V value) {
+            return new OwnedNode<>(key, value, this.batchOwner);
+        }
+    }
+
+    /**
+     * Node remembering the batch which created it and may modify it before publishing.
+     */
+    private static class OwnedNode<K,V> extends LeftLeaningRedBlackTree.Node<K,V> {
+
+        private final Object owner;
+
+        OwnedNode(K key, V value, Object owner) {
+            super(key, value);
+            this.owner = owner;
+        }
+    }
+
+    private static class Mutation<K,V> {
+        private final K key;
+        private final V value;
+        private final boolean isDelete;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Mutation(K key, V value, boolean isDelete) {
+            this.key = key;
+            this.value = value;
+            this.isDelete = isDelete;
+        }
+    }
+
+}
@@ -0,0 +1,285 @@
+package datastructure;
+
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Left-leaning Red–Black Tree is a variant of the Red–Black Tree in which every red node is a left child.
+ * Nodes do not keep a reference to their parent, the tree is rebalanced on the way back up the search path.
+ */
+public class LeftLeaningRedBlackTree<K,V> {
+
+    private final Comparator<K> comparator;
+
+    protected Node<K,V> root;
+
+    public LeftLeaningRedBlackTree(Comparator<K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts the provided key and value into the tree.
+     * If the specified key already exists in the tree, the new value replaces the old one.
+     * @param key key to determine the value.
+     * @param value value to store.
+     * @throws NullPointerException if the provided key is null.
+     */
+    public void insert(K key, V value) {
+        Objects.requireNonNull(key, "Cannot save null key");
+
+        this.root = insert(this.root, key, value);
+        this.root.isBlack = true;
+    }
+
+    /**
+     * Returns the {@code Optional} value associated with the passed key if the association exists in the tree.
+     * @param key search key.
+     * @return {@code Optional} value associated with the key.
+     */
+    public Optional<V> search(K key) {
+        Node<K, V> node = findNode(key);
+        return node == null ? Optional.empty() : Optional.of(node.value);
+    }
+
+    /**
+     * Removes the association for the provided key if it exists in the tree.
+     * @param key key to remove.
+     * @throws NullPointerException if the provided key is null.
+     */
+    public void delete(K key) {
+        Objects.requireNonNull(key, "Cannot delete null key");
+        if (findNode(key) == null)
+            return;
+
+        this.root = editable(this.root);
+        if (!isRed(this.root.leftChild) && !isRed(this.root.rightChild))
+            this.root.isBlack = false;
+
+        this.root = delete(this.root, key);
+        if (this.root != null)
+            this.root.isBlack = true;
+    }
+
+    /**
+     * Traverses all nodes in the tree using the BFS algorithm.
+     * The passed consumer performs its operation on each node.
+     * @param consumer function to be performed on each node.
+     */
+    public void breadthFirstSearch(Consumer<Node<K,V>> consumer) {
+        if (this.root == null)
+            return;
+
+        Queue<Node<K,V>> nodeQueue = new LinkedList<>();
+        nodeQueue.add(this.root);
+        while (!nodeQueue.isEmpty()) {
+            Node<K,V> currentNode = nodeQueue.poll();
+            consumer.accept(currentNode);
+
+            if (currentNode.leftChild != null)
+                nodeQueue.add(currentNode.leftChild);
+
+            if (currentNode.rightChild != null)
+                nodeQueue.add(currentNode.rightChild);
+        }
+    }
+
+    /**
+     * Returns the node which may be modified instead of the passed one.
+     * The tree modifies its nodes in place, subclasses may return a copy
+     * and then every reference to the old node is replaced with the returned one.
+     * @param node node about to be modified.
+     * @return node to modify.
+     */
+    protected Node<K, V> editable(Node<K, V> node) {
+        return node;
+    }
+
+    /**
+     * Creates a new red node with given key and value.
+     */
+    protected Node<K, V> createNode(K key, V value) {
+        return new Node<>(key, value);
+    }
+
+    private Node<K, V> findNode(K key) {
+        return findNode(this.root, key);
+    }
+
+    /**
+     * Looks the key up in the subtree. Does not modify anything and may be called for any subtree.
+     * @param currentNode root of the subtree.
+     * @param key search key.
+     * @return node with the key or null if the subtree does not contain it.
+     */
+    protected Node<K, V> findNode(Node<K, V> currentNode, K key) {
+        while (currentNode != null) {
+            int comparisonResult = this.comparator.compare(key, currentNode.key);
+            if (comparisonResult < 0) {
+                currentNode = currentNode.leftChild;
+            } else if (comparisonResult > 0) {
+                currentNode = currentNode.rightChild;
+            } else {
+                return currentNode;
+            }
+        }
+
+        return null;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, K key, V value) {
+        if (node == null)
+            return createNode(key, value);
+
+        node = editable(node);
+        int comparisonResult = this.comparator.compare(key, node.key);
+        if (comparisonResult < 0) {
+            node.leftChild = insert(node.leftChild, key, value);
+        } else if (comparisonResult > 0) {
+            node.rightChild = insert(node.rightChild, key, value);
+        } else {
+            node.value = value;
+        }
+
+        return balance(node);
+    }
+
+    private Node<K, V> delete(Node<K, V> node, K key) {
+        node = editable(node);
+        if (this.comparator.compare(key, node.key) < 0) {
+            if (!isRed(node.leftChild) && !isRed(node.leftChild.leftChild))
+                node = moveRedLeft(node);
+            node.leftChild = delete(node.leftChild, key);
+        } else {
+            if (isRed(node.leftChild))
+                node = rotateRight(node);
+            if (this.comparator.compare(key, node.key) == 0 && node.rightChild == null)
+                return null;
+            if (!isRed(node.rightChild) && !isRed(node.rightChild.leftChild))
+                node = moveRedRight(node);
+            if (this.comparator.compare(key, node.key) == 0) {
+                Node<K, V> successor = node.rightChild;
+                while (successor.leftChild != null) {
+                    successor = successor.leftChild;
+                }
+                node.key = successor.key;
+                node.value = successor.value;
+                node.rightChild = deleteMin(node.rightChild);
+            } else {
+                node.rightChild = delete(node.rightChild, key);
+            }
+        }
+
+        return balance(node);
+    }
+
+    private Node<K, V> deleteMin(Node<K, V> node) {
+        if (node.leftChild == null)
+            return null;
+
+        node = editable(node);
+        if (!isRed(node.leftChild) && !isRed(node.leftChild.leftChild))
+            node = moveRedLeft(node);
+
+        node.leftChild = deleteMin(node.leftChild);
+        return balance(node);
+    }
+
+    private Node<K, V> moveRedLeft(Node<K, V> node) {
+        flipColors(node);
+        if (isRed(node.rightChild.leftChild)) {
+            node.rightChild = rotateRight(node.rightChild);
+            node = rotateLeft(node);
+            flipColors(node);
+        }
+        return node;
+    }
+
+    private Node<K, V> moveRedRight(Node<K, V> node) {
+        flipColors(node);
+        if (isRed(node.leftChild.leftChild)) {
+            node = rotateRight(node);
+            flipColors(node);
+        }
+        return node;
+    }
+
+    private Node<K, V> balance(Node<K, V> node) {
+        if (isRed(node.rightChild) && !isRed(node.leftChild))
+            node = rotateLeft(node);
+        if (isRed(node.leftChild) && isRed(node.leftChild.leftChild))
+            node = rotateRight(node);
+        if (isRed(node.leftChild) && isRed(node.rightChild))
+            flipColors(node);
+        return node;
+    }
+
+    /**
+     * Rotates the node to the left. The passed node must already be {@link #editable(Node) editable}.
+     */
+    protected Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> newParent = editable(node.rightChild);
+        node.rightChild = newParent.leftChild;
+        newParent.leftChild = node;
+        newParent.isBlack = node.isBlack;
+        node.isBlack = false;
+        return newParent;
+    }
+
+    /**
+     * Rotates the node to the right. The passed node must already be {@link #editable(Node) editable}.
+     */
+    protected Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> newParent = editable(node.leftChild);
+        node.leftChild = newParent.rightChild;
+        newParent.rightChild = node;
+        newParent.isBlack = node.isBlack;
+        node.isBlack = false;
+        return newParent;
+    }
+
+    private void flipColors(Node<K, V> node) {
+        node.leftChild = editable(node.leftChild);
+        node.rightChild = editable(node.rightChild);
+        node.isBlack = !node.isBlack;
+        node.leftChild.isBlack = !node.leftChild.isBlack;
+        node.rightChild.isBlack = !node.rightChild.isBlack;
+    }
+
+    private boolean isRed(Node<K, V> node) {
+        return node != null && !node.isBlack;
+    }
+
+    /**
+     * Node in the Tree. Unlike {@link RedBlackTree.Node} it has no parent reference.
+     * @param <K> key type.
+     * @param <V> value type.
+     */
+    static class Node<K,V> {
+        protected K key;
+        protected V value;
+
+        protected Node<K,V> leftChild;
+        protected Node<K,V> rightChild;
+
+        protected boolean isBlack;
+
+        /**
+         * Creates a new red node with given key and value.
+         */
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        Node(K key, V value, boolean isBlack) {
+            this.key = key;
+            this.value = value;
+            this.isBlack = isBlack;
+        }
+    }
+
+}
@@ -14,10 +14,22 @@ public class RedBlackTree<K,V> {
 
     private final Comparator<K> comparator;
 
+    private final ChangeFeed<K,V> changeFeed;
+
     protected Node<K,V> root;
 
     public RedBlackTree(Comparator<K> comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Creates a tree which publishes every insert, update and delete to the provided feed.
+     * @param comparator key comparator.
+     * @param changeFeed feed to publish changes to, or null to publish nothing.
+     */
+    public RedBlackTree(Comparator<K> comparator, ChangeFeed<K,V> changeFeed) {
         this.comparator = comparator;
+        this.changeFeed = changeFeed;
     }
 
     /**
@@ -42,6 +54,7 @@ public class RedBlackTree<K,V> {
                 currentNode = currentNode.rightChild;
             } else {
                 currentNode.value = newNode.value;
+                publishChange(ChangeEvent.Type.UPDATE, currentNode.key, currentNode.value);
                 return;
             }
         }
@@ -57,6 +70,7 @@ public class RedBlackTree<K,V> {
         }
 
         fixAfterInsertion(newNode);
+        publishChange(ChangeEvent.Type.INSERT, newNode.key, newNode.value);
     }
 
     /**
@@ -66,23 +80,49 @@ public class RedBlackTree<K,V> {
      */
     // TODO: 12/9/2023 : handle null keys
     public Optional<V> search(K key) {
-        Node<K, V> currentNode = this.root;
-        while (currentNode != null) {
-            int comparisonResult = this.comparator.compare(currentNode.key, key);
-            if (comparisonResult < 0) {
-                currentNode = currentNode.rightChild;
-            } else if (comparisonResult > 0) {
-                currentNode = currentNode.leftChild;
-            } else {
-                return Optional.of(currentNode.value);
+        Node<K, V> node = findNode(key);
+        return node == null ? Optional.empty() : Optional.of(node.value);
+    }
+
+    /**
+     * Removes the association for the provided key if it exists in the tree.
+     * @param key key to remove.
+     * @throws NullPointerException if the provided key is null.
+     */
+    public void delete(K key) {
+        Objects.requireNonNull(key, "Cannot delete null key");
+
+        Node<K, V> node = findNode(key);
+        if (node == null)
+            return;
+
+        K deletedKey = node.key;
+        V deletedValue = node.value;
+        if (node.leftChild != null && node.rightChild != null) {
+            Node<K, V> successor = node.rightChild;
+            while (successor.leftChild != null) {
+                successor = successor.leftChild;
             }
+            node.key = successor.key;
+            node.value = successor.value;
+            node = successor;
         }
 
-        return Optional.empty();
-    }
+        Node<K, V> replacement = node.leftChild != null ? node.leftChild : node.rightChild;
+        if (replacement != null) {
+            replaceInParent(node, replacement);
+            if (node.isBlack)
+                fixAfterDeletion(replacement);
+        } else if (node.parent == null) {
+            this.root = null;
+        } else {
+            // The node itself acts as the missing child while the tree is being fixed.
+            if (node.isBlack)
+                fixAfterDeletion(node);
+            replaceInParent(node, null);
+        }
 
-    public void delete(K key) {
-        // TODO: 12/1/2023 Implement
+        publishChange(ChangeEvent.Type.DELETE, deletedKey, deletedValue);
     }
 
     /**
@@ -126,6 +166,44 @@ public class RedBlackTree<K,V> {
         return leftBlackHeight + currentNodeColor;
     }
 
+    private Node<K, V> findNode(K key) {
+        Node<K, V> currentNode = this.root;
+        while (currentNode != null) {
+            int comparisonResult = this.comparator.compare(currentNode.key, key);
+            if (comparisonResult < 0) {
+                currentNode = currentNode.rightChild;
+            } else if (comparisonResult > 0) {
+                currentNode = currentNode.leftChild;
+            } else {
+                return currentNode;
+            }
+        }
+
+        return null;
+    }
+
+    private void replaceInParent(Node<K, V> node, Node<K, V> replacement) {
+        if (replacement != null)
+            replacement.parent = node.parent;
+
+        if (node.parent == null) {
+            this.root = replacement;
+        } else if (node == node.parent.leftChild) {
+            node.parent.leftChild = replacement;
+        } else {
+            node.parent.rightChild = replacement;
+        }
+
+        node.parent = null;
+        node.leftChild = null;
+        node.rightChild = null;
+    }
+
+    private void publishChange(ChangeEvent.Type type, K key, V value) {
+        if (this.changeFeed != null)
+            this.changeFeed.publish(type, key, value);
+    }
+
     private void fixAfterInsertion(Node<K, V> node) {
         while (!isNodeBlack(node.parent)) {
             if (node.parent.equals(node.parent.parent.leftChild)) {
@@ -166,6 +244,64 @@ public class RedBlackTree<K,V> {
         this.root.isBlack = true;
     }
 
+    private void fixAfterDeletion(Node<K, V> node) {
+        while (node != this.root && isNodeBlack(node)) {
+            if (node == node.parent.leftChild) {
+                Node<K, V> siblingNode = node.parent.rightChild;
+                if (!isNodeBlack(siblingNode)) {
+                    siblingNode.isBlack = true;
+                    node.parent.isBlack = false;
+                    rotateLeft(node.parent);
+                    siblingNode = node.parent.rightChild;
+                }
+
+                if (isNodeBlack(siblingNode.leftChild) && isNodeBlack(siblingNode.rightChild)) {
+                    siblingNode.isBlack = false;
+                    node = node.parent;
+                } else {
+                    if (isNodeBlack(siblingNode.rightChild)) {
+                        siblingNode.leftChild.isBlack = true;
+                        siblingNode.isBlack = false;
+                        rotateRight(siblingNode);
+                        siblingNode = node.parent.rightChild;
+                    }
+                    siblingNode.isBlack = node.parent.isBlack;
+                    node.parent.isBlack = true;
+                    siblingNode.rightChild.isBlack = true;
+                    rotateLeft(node.parent);
+                    node = this.root;
+                }
+            } else {
+                Node<K, V> siblingNode = node.parent.leftChild;
+                if (!isNodeBlack(siblingNode)) {
+                    siblingNode.isBlack = true;
+                    node.parent.isBlack = false;
+                    rotateRight(node.parent);
+                    siblingNode = node.parent.leftChild;
+                }
+
+                if (isNodeBlack(siblingNode.leftChild) && isNodeBlack(siblingNode.rightChild)) {
+                    siblingNode.isBlack = false;
+                    node = node.parent;
+                } else {
+                    if (isNodeBlack(siblingNode.leftChild)) {
+                        siblingNode.rightChild.isBlack = true;
+                        siblingNode.isBlack = false;
+                        rotateLeft(siblingNode);
+                        siblingNode = node.parent.leftChild;
+                    }
+                    siblingNode.isBlack = node.parent.isBlack;
+                    node.parent.isBlack = true;
+                    siblingNode.leftChild.isBlack = true;
+                    rotateRight(node.parent);
+                    node = this.root;
+                }
+            }
+        }
+
+        node.isBlack = true;
+    }
+
     protected void rotateLeft(Node<K, V> node) {
         if (node == null) return;
 
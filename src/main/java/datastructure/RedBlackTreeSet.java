@@ -0,0 +1,256 @@
+package datastructure;
+
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Set of keys backed by a left-leaning Red–Black Tree.
+ * Nodes store neither a value nor a color field: the color is encoded by the node class,
+ * so recoloring a node replaces it with a copy of the other color.
+ */
+public class RedBlackTreeSet<K> {
+
+    private final Comparator<K> comparator;
+
+    protected Node<K> root;
+
+    public RedBlackTreeSet(Comparator<K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts the provided key into the set. Does nothing if the key is already present.
+     * @param key key to store.
+     * @throws NullPointerException if the provided key is null.
+     */
+    public void insert(K key) {
+        Objects.requireNonNull(key, "Cannot save null key");
+
+        this.root = withColor(insert(this.root, key), true);
+    }
+
+    /**
+     * Checks whether the provided key is present in the set.
+     * @param key search key.
+     * @return true if the set contains the key.
+     */
+    public boolean contains(K key) {
+        Node<K> currentNode = this.root;
+        while (currentNode != null) {
+            int comparisonResult = this.comparator.compare(key, currentNode.key);
+            if (comparisonResult < 0) {
+                currentNode = currentNode.leftChild;
+            } else if (comparisonResult > 0) {
+                currentNode = currentNode.rightChild;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the provided key from the set if it is present.
+     * @param key key to remove.
+     * @throws NullPointerException if the provided key is null.
+     */
+    public void delete(K key) {
+        Objects.requireNonNull(key, "Cannot delete null key");
+        if (!contains(key))
+            return;
+
+        if (!isRed(this.root.leftChild) && !isRed(this.root.rightChild))
+            this.root = withColor(this.root, false);
+
+        this.root = delete(this.root, key);
+        if (this.root != null)
+            this.root = withColor(this.root, true);
+    }
+
+    /**
+     * Traverses all nodes in the set using the BFS algorithm.
+     * The passed consumer performs its operation on each node.
+     * @param consumer function to be performed on each node.
+     */
+    public void breadthFirstSearch(Consumer<Node<K>> consumer) {
+        if (this.root == null)
+            return;
+
+        Queue<Node<K>> nodeQueue = new LinkedList<>();
+        nodeQueue.add(this.root);
+        while (!nodeQueue.isEmpty()) {
+            Node<K> currentNode = nodeQueue.poll();
+            consumer.accept(currentNode);
+
+            if (currentNode.leftChild != null)
+                nodeQueue.add(currentNode.leftChild);
+
+            if (currentNode.rightChild != null)
+                nodeQueue.add(currentNode.rightChild);
+        }
+    }
+
+    private Node<K> insert(Node<K> node, K key) {
+        if (node == null)
+            return new RedNode<>(key);
+
+        int comparisonResult = this.comparator.compare(key, node.key);
+        if (comparisonResult < 0) {
+            node.leftChild = insert(node.leftChild, key);
+        } else if (comparisonResult > 0) {
+            node.rightChild = insert(node.rightChild, key);
+        }
+
+        return balance(node);
+    }
+
+    private Node<K> delete(Node<K> node, K key) {
+        if (this.comparator.compare(key, node.key) < 0) {
+            if (!isRed(node.leftChild) && !isRed(node.leftChild.leftChild))
+                node = moveRedLeft(node);
+            node.leftChild = delete(node.leftChild, key);
+        } else {
+            if (isRed(node.leftChild))
+                node = rotateRight(node);
+            if (this.comparator.compare(key, node.key) == 0 && node.rightChild == null)
+                return null;
+            if (!isRed(node.rightChild) && !isRed(node.rightChild.leftChild))
+                node = moveRedRight(node);
+            if (this.comparator.compare(key, node.key) == 0) {
+                Node<K> successor = node.rightChild;
+                while (successor.leftChild != null) {
+                    successor = successor.leftChild;
+                }
+                node.key = successor.key;
+                node.rightChild = deleteMin(node.rightChild);
+            } else {
+                node.rightChild = delete(node.rightChild, key);
+            }
+        }
+
+        return balance(node);
+    }
+
+    private Node<K> deleteMin(Node<K> node) {
+        if (node.leftChild == null)
+            return null;
+
+        if (!isRed(node.leftChild) && !isRed(node.leftChild.leftChild))
+            node = moveRedLeft(node);
+
+        node.leftChild = deleteMin(node.leftChild);
+        return balance(node);
+    }
+
+    private Node<K> moveRedLeft(Node<K> node) {
+        node = flipColors(node);
+        if (isRed(node.rightChild.leftChild)) {
+            node.rightChild = rotateRight(node.rightChild);
+            node = rotateLeft(node);
+            node = flipColors(node);
+        }
+        return node;
+    }
+
+    private Node<K> moveRedRight(Node<K> node) {
+        node = flipColors(node);
+        if (isRed(node.leftChild.leftChild)) {
+            node = rotateRight(node);
+            node = flipColors(node);
+        }
+        return node;
+    }
+
+    private Node<K> balance(Node<K> node) {
+        if (isRed(node.rightChild) && !isRed(node.leftChild))
+            node = rotateLeft(node);
+        if (isRed(node.leftChild) && isRed(node.leftChild.leftChild))
+            node = rotateRight(node);
+        if (isRed(node.leftChild) && isRed(node.rightChild))
+            node = flipColors(node);
+        return node;
+    }
+
+    protected Node<K> rotateLeft(Node<K> node) {
+        Node<K> newParent = withColor(node.rightChild, node.isBlack());
+        node.rightChild = newParent.leftChild;
+        newParent.leftChild = withColor(node, false);
+        return newParent;
+    }
+
+    protected Node<K> rotateRight(Node<K> node) {
+        Node<K> newParent = withColor(node.leftChild, node.isBlack());
+        node.leftChild = newParent.rightChild;
+        newParent.rightChild = withColor(node, false);
+        return newParent;
+    }
+
+    private Node<K> flipColors(Node<K> node) {
+        node = withColor(node, !node.isBlack());
+        node.leftChild = withColor(node.leftChild, !node.leftChild.isBlack());
+        node.rightChild = withColor(node.rightChild, !node.rightChild.isBlack());
+        return node;
+    }
+
+    /**
+     * Returns the node itself if it already has the requested color, otherwise its copy of that color.
+     * The caller must replace every reference to the old node with the returned one.
+     */
+    private Node<K> withColor(Node<K> node, boolean isBlack) {
+        if (node.isBlack() == isBlack)
+            return node;
+
+        Node<K> recolored = isBlack ? new BlackNode<>(node.key) : new RedNode<>(node.key);
+        recolored.leftChild = node.leftChild;
+        recolored.rightChild = node.rightChild;
+        return recolored;
+    }
+
+    private boolean isRed(Node<K> node) {
+        return node != null && !node.isBlack();
+    }
+
+    /**
+     * Node in the Set. The color is defined by the subclass.
+     * @param <K> key type.
+     */
+    abstract static class Node<K> {
+        protected K key;
+
+        protected Node<K> leftChild;
+        protected Node<K> rightChild;
+
+        Node(K key) {
+            this.key = key;
+        }
+
+        abstract boolean isBlack();
+    }
+
+    static final class RedNode<K> extends Node<K> {
+        RedNode(K key) {
+            super(key);
+        }
+
+        @Override
+        boolean isBlack() {
+            return false;
+        }
+    }
+
+    static final class BlackNode<K> extends Node<K> {
+        BlackNode(K key) {
+            super(key);
+        }
+
+        @Override
+        boolean isBlack() {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package datastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncRedBlackTreeServiceTest {
+
+    @Test
+    void search_keyWasInserted_returnsOptionalWithValue() {
+        //GIVEN
+        Object expectedValue = new Object();
+        try (var service = new AsyncRedBlackTreeService<Integer, Object>(Integer::compareTo)) {
+            service.insert(8, expectedValue).join();
+
+            //WHEN
+            Optional<Object> actualValueOptional = service.search(8).join();
+
+            //THEN
+            assertThat(actualValueOptional).containsSame(expectedValue);
+        }
+    }
+
+    @Test
+    void search_nonExistentKeyIsRequested_returnsEmptyOptional() {
+        //GIVEN
+        try (var service = new AsyncRedBlackTreeService<Integer, Object>(Integer::compareTo)) {
+            service.insert(4, new Object()).join();
+
+            //WHEN
+            Optional<Object> actualValueOptional = service.search(10).join();
+
+            //THEN
+            assertThat(actualValueOptional).isEmpty();
+        }
+    }
+
+    @Test
+    void insert_keyIsNull_throwsNullPointerException() {
+        //GIVEN
+        try (var service = new AsyncRedBlackTreeService<Integer, Object>(Integer::compareTo)) {
+
+            //WHEN
+            assertThatThrownBy(() -> service.insert(null, new Object()))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("Cannot save null key");
+        }
+    }
+
+    @Test
+    void search_requestsForSameKeyInOneBatch_appliedInSubmissionOrder() {
+        //GIVEN
+        try (var service = new AsyncRedBlackTreeService<Integer, String>(
+                Integer::compareTo, 1024, Duration.ofMillis(200))) {
+
+            //WHEN
+            var beforeInsert = service.search(5);
+            service.insert(9, "other-value");
+            service.insert(5, "old-value");
+            var afterFirstInsert = service.search(5);
+            service.insert(5, "new-value");
+            var afterSecondInsert = service.search(5);
+            service.insert(1, "other-value");
+
+            //THEN
+            assertThat(beforeInsert.join()).isEmpty();
+            assertThat(afterFirstInsert.join()).contains("old-value");
+            assertThat(afterSecondInsert.join()).contains("new-value");
+        }
+    }
+
+    @Test
+    void insert_manyVirtualThreadsSubmitConcurrently_allValuesAreStored() {
+        //GIVEN
+        try (var service = new AsyncRedBlackTreeService<Integer, Integer>(Integer::compareTo, 64, Duration.ofMillis(1));
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> inserts = new ArrayList<>();
+
+            //WHEN
+            for (int i = 0; i < 1000; i++) {
+                int key = i;
+                inserts.add(CompletableFuture.supplyAsync(() -> service.insert(key, key).join(), executor));
+            }
+            CompletableFuture.allOf(inserts.toArray(CompletableFuture[]::new)).join();
+
+            //THEN
+            for (int i = 0; i < 1000; i++) {
+                assertThat(service.search(i).join()).contains(i);
+            }
+        }
+    }
+
+    @Test
+    void search_comparatorThrowsError_requestFailsAndServiceIsClosed() {
+        //GIVEN
+        Comparator<Integer> comparator = (k1, k2) -> {
+            if (k1 == 13 || k2 == 13)
+                throw new StackOverflowError();
+            return Integer.compare(k1, k2);
+        };
+        var service = new AsyncRedBlackTreeService<Integer, Object>(comparator);
+        service.insert(1, new Object()).join();
+
+        //WHEN
+        var failedSearch = service.search(13);
+
+        //THEN
+        assertThatThrownBy(failedSearch::join).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> service.search(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Service is closed");
+    }
+
+    @Test
+    void constructor_batchSizeIsNotPositive_throwsIllegalArgumentException() {
+        //WHEN
+        assertThatThrownBy(() -> new AsyncRedBlackTreeService<Integer, Object>(Integer::compareTo, 0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch size must be positive: 0");
+    }
+
+    @Test
+    void search_serviceIsClosed_throwsIllegalStateException() {
+        //GIVEN
+        var service = new AsyncRedBlackTreeService<Integer, Object>(Integer::compareTo);
+        service.close();
+
+        //WHEN
+        assertThatThrownBy(() -> service.search(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Service is closed");
+    }
+}
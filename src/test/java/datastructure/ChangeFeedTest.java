@@ -0,0 +1,139 @@
+package datastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ChangeFeedTest {
+
+    @Test
+    void drain_eventsArePublished_consumerReceivesEventsInOrder() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, String>(8);
+        feed.publish(ChangeEvent.Type.INSERT, 1, "a");
+        feed.publish(ChangeEvent.Type.UPDATE, 1, "b");
+        feed.publish(ChangeEvent.Type.DELETE, 1, "b");
+        List<ChangeEvent<Integer, String>> events = new ArrayList<>();
+
+        //WHEN
+        long nextSequence = feed.drain(0, 10, events::add);
+
+        //THEN
+        assertThat(nextSequence).isEqualTo(3);
+        assertThat(events).containsExactly(
+                new ChangeEvent<>(0, ChangeEvent.Type.INSERT, 1, "a"),
+                new ChangeEvent<>(1, ChangeEvent.Type.UPDATE, 1, "b"),
+                new ChangeEvent<>(2, ChangeEvent.Type.DELETE, 1, "b"));
+    }
+
+    @Test
+    void drain_maxEventsIsSmallerThanAvailable_consumerResumesFromReturnedSequence() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, Integer>(8);
+        for (int i = 0; i < 5; i++) {
+            feed.publish(ChangeEvent.Type.INSERT, i, i);
+        }
+        List<Integer> keys = new ArrayList<>();
+
+        //WHEN
+        long nextSequence = feed.drain(0, 2, e -> keys.add(e.key()));
+        nextSequence = feed.drain(nextSequence, 2, e -> keys.add(e.key()));
+        nextSequence = feed.drain(nextSequence, 2, e -> keys.add(e.key()));
+
+        //THEN
+        assertThat(nextSequence).isEqualTo(5);
+        assertThat(keys).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void drain_consumerIsUpToDate_returnsSameSequenceWithoutEvents() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, Integer>(4);
+        feed.publish(ChangeEvent.Type.INSERT, 1, 1);
+        List<ChangeEvent<Integer, Integer>> events = new ArrayList<>();
+
+        //WHEN
+        long nextSequence = feed.drain(1, 10, events::add);
+
+        //THEN
+        assertThat(nextSequence).isEqualTo(1);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void drain_consumerFellBehind_throwsOverrunExceptionAndReplicaRecoversByRescan() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, Integer>(4);
+        var tree = new RedBlackTree<Integer, Integer>(Integer::compareTo, feed);
+        Map<Integer, Integer> replica = new HashMap<>();
+        Consumer<ChangeEvent<Integer, Integer>> applyToReplica = e -> {
+            if (e.type() == ChangeEvent.Type.DELETE) {
+                replica.remove(e.key());
+            } else {
+                replica.put(e.key(), e.value());
+            }
+        };
+        tree.insert(1, 1);
+        long consumedSequence = feed.drain(0, 10, applyToReplica);
+        for (int i = 2; i < 10; i++) {
+            tree.insert(i, i);
+        }
+        tree.delete(1);
+
+        //WHEN
+        assertThatThrownBy(() -> feed.drain(consumedSequence, 10, applyToReplica))
+                .isInstanceOf(ChangeFeed.OverrunException.class)
+                .hasMessage("Sequence 1 has been overwritten, oldest available is 6");
+
+        long resumeSequence = feed.nextSequence();
+        replica.clear();
+        tree.breadthFirstSearch(n -> replica.put(n.key, n.value));
+        tree.insert(3, 30);
+        tree.delete(4);
+        feed.drain(resumeSequence, 10, applyToReplica);
+
+        //THEN
+        Map<Integer, Integer> treeContents = new HashMap<>();
+        tree.breadthFirstSearch(n -> treeContents.put(n.key, n.value));
+        assertThat(replica).isEqualTo(treeContents);
+        assertThat(replica).containsEntry(3, 30).doesNotContainKeys(1, 4);
+    }
+
+    @Test
+    void drain_sequenceIsNegative_throwsIllegalArgumentException() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, Integer>(4);
+        feed.publish(ChangeEvent.Type.INSERT, 1, 1);
+
+        //WHEN
+        assertThatThrownBy(() -> feed.drain(-1, 10, e -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sequence must not be negative: -1");
+    }
+
+    @Test
+    void drain_sequenceHasNotBeenPublished_throwsIllegalArgumentException() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, Integer>(4);
+
+        //WHEN
+        assertThatThrownBy(() -> feed.drain(1, 10, e -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sequence 1 has not been published yet");
+    }
+
+    @Test
+    void constructor_capacityIsNotPositive_throwsIllegalArgumentException() {
+        //WHEN
+        assertThatThrownBy(() -> new ChangeFeed<Integer, Integer>(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity must be positive: 0");
+    }
+}
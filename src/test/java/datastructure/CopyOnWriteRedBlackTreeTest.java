@@ -0,0 +1,224 @@
+package datastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static datastructure.LeftLeaningTreeAssertions.assertThatTreeIsBalanced;
+import static datastructure.LeftLeaningTreeAssertions.collectKeys;
+import static datastructure.LeftLeaningTreeAssertions.leftLeaningNodes;
+import static datastructure.LeftLeaningTreeAssertions.randomKeys;
+import static datastructure.LeftLeaningTreeAssertions.traverse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CopyOnWriteRedBlackTreeTest {
+
+    @Test
+    void insert_changeIsPublished_searchReturnsValue() {
+        //GIVEN
+        Object expectedValue = new Object();
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Object>(Integer::compareTo)) {
+
+            //WHEN
+            tree.insert(10, expectedValue).join();
+
+            //THEN
+            assertThat(tree.search(10)).containsSame(expectedValue);
+            assertThat(tree.search(11)).isEmpty();
+        }
+    }
+
+    @Test
+    void insert_keyIsNull_throwsNullPointerException() {
+        //GIVEN
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Object>(Integer::compareTo)) {
+
+            //WHEN
+            assertThatThrownBy(() -> tree.insert(null, new Object()))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessage("Cannot save null key");
+        }
+    }
+
+    @Test
+    void insert_manyConcurrentSubmissions_allChangesArePublishedAndTreeIsBalanced() {
+        //GIVEN
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Integer>(Integer::compareTo, 16)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            //WHEN
+            for (int i = 0; i < 1000; i++) {
+                futures.add(tree.insert(i, i));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            //THEN
+            assertThat(collectKeys(tree.root, leftLeaningNodes())).hasSize(1000);
+            assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+        }
+    }
+
+    @Test
+    void insert_existentKeyAdded_valueIsReplaced() {
+        //GIVEN
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, String>(Integer::compareTo)) {
+            tree.insert(5, "old-value").join();
+
+            //WHEN
+            tree.insert(5, "new-value").join();
+
+            //THEN
+            assertThat(tree.search(5)).contains("new-value");
+        }
+    }
+
+    @Test
+    void insert_publishedSnapshotIsHeldByReader_snapshotHasNotChanged() {
+        //GIVEN
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, String>(Integer::compareTo)) {
+            for (int i = 0; i < 100; i++) {
+                tree.insert(i, "old-value").join();
+            }
+            var snapshot = tree.root;
+
+            //WHEN
+            for (int i = 0; i < 100; i++) {
+                tree.insert(i * 2, "new-value");
+            }
+            tree.delete(50).join();
+
+            //THEN
+            List<Object> snapshotKeys = collectKeys(snapshot, leftLeaningNodes());
+            assertThat(snapshotKeys).hasSize(100).contains(50);
+            assertThatTreeIsBalanced(snapshot, leftLeaningNodes());
+            traverse(snapshot, leftLeaningNodes(), n -> assertThat(n.value).isEqualTo("old-value"));
+
+            assertThat(tree.search(50)).isEmpty();
+            assertThat(tree.search(198)).contains("new-value");
+            assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+        }
+    }
+
+    @Test
+    void delete_randomKeysAreRequestedToBeDeleted_remainingKeysArePresentAndTreeIsBalanced() {
+        //GIVEN
+        var keys = randomKeys();
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Integer>(Integer::compareTo, 8)) {
+            keys.inserted().forEach(k -> tree.insert(k, k));
+
+            //WHEN
+            keys.deleted().forEach(tree::delete);
+            tree.insert(-1, -1).join();
+
+            //THEN
+            keys.deleted().forEach(k -> assertThat(tree.search(k)).isEmpty());
+            keys.remaining().forEach(k -> assertThat(tree.search(k)).contains(k));
+            assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+        }
+    }
+
+    @Test
+    void delete_nonExistentKeyIsRequested_rootIsNotReplaced() {
+        //GIVEN
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Object>(Integer::compareTo)) {
+            tree.insert(4, new Object()).join();
+            var snapshot = tree.root;
+
+            //WHEN
+            tree.delete(10).join();
+
+            //THEN
+            assertThat(tree.root).isSameAs(snapshot);
+        }
+    }
+
+    @Test
+    void insert_treeIsClosed_throwsIllegalStateException() {
+        //GIVEN
+        var tree = new CopyOnWriteRedBlackTree<Integer, Object>(Integer::compareTo);
+        tree.close();
+
+        //WHEN
+        assertThatThrownBy(() -> tree.insert(1, new Object()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Tree is closed");
+    }
+
+    @Test
+    void insert_comparatorThrowsError_batchFailsAndWriterKeepsApplyingChanges() {
+        //GIVEN
+        Comparator<Integer> comparator = (k1, k2) -> {
+            if (k1 == 13 || k2 == 13)
+                throw new StackOverflowError();
+            return Integer.compare(k1, k2);
+        };
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Object>(comparator)) {
+            tree.insert(1, new Object()).join();
+
+            //WHEN
+            var failedInsert = tree.insert(13, new Object());
+            assertThatThrownBy(failedInsert::join).hasCauseInstanceOf(StackOverflowError.class);
+            tree.insert(2, new Object()).join();
+
+            //THEN
+            assertThat(tree.search(1)).isNotEmpty();
+            assertThat(tree.search(2)).isNotEmpty();
+        }
+    }
+
+    @Test
+    void insert_failingMutationSharesBatch_onlyFailingMutationIsRejected() throws InterruptedException {
+        //GIVEN
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        Comparator<Integer> comparator = (k1, k2) -> {
+            if (k1 == 13 || k2 == 13)
+                throw new IllegalArgumentException("Cannot compare 13");
+            if (k1 == 100 || k2 == 100) {
+                writerBlocked.countDown();
+                try {
+                    releaseWriter.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Integer.compare(k1, k2);
+        };
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Object>(comparator)) {
+            tree.insert(1, new Object()).join();
+            var blockingInsert = tree.insert(100, new Object());
+            writerBlocked.await();
+
+            //WHEN
+            var goodInsert = tree.insert(2, new Object());
+            var failedInsert = tree.insert(13, new Object());
+            releaseWriter.countDown();
+
+            //THEN
+            blockingInsert.join();
+            goodInsert.join();
+            assertThatThrownBy(failedInsert::join).hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(tree.search(2)).isNotEmpty();
+            assertThat(tree.search(100)).isNotEmpty();
+        }
+    }
+
+    @Test
+    void search_treeIsEmpty_returnsEmptyOptional() {
+        //GIVEN
+        try (var tree = new CopyOnWriteRedBlackTree<Integer, Object>(Integer::compareTo)) {
+
+            //WHEN
+            Optional<Object> actualValueOptional = tree.search(1);
+
+            //THEN
+            assertThat(actualValueOptional).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package datastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static datastructure.LeftLeaningTreeAssertions.assertThatTreeIsBalanced;
+import static datastructure.LeftLeaningTreeAssertions.collectKeys;
+import static datastructure.LeftLeaningTreeAssertions.leftLeaningNodes;
+import static datastructure.LeftLeaningTreeAssertions.randomKeys;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LeftLeaningRedBlackTreeTest {
+
+    @Test
+    void insert_treeIsEmpty_newNodeIsAddedAsBlackRoot() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<>(Integer::compareTo);
+
+        //WHEN
+        tree.insert(10, new Object());
+
+        //THEN
+        assertThat(tree.root.key).isEqualTo(10);
+        assertThat(tree.root.isBlack).isTrue();
+    }
+
+    @Test
+    void insert_keyIsNull_throwsNullPointerException() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<>(Integer::compareTo);
+
+        //WHEN
+        assertThatThrownBy(() -> tree.insert(null, new Object()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Cannot save null key");
+    }
+
+    @Test
+    void insert_ascendingKeys_treeIsBalanced() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<Integer, Integer>(Integer::compareTo);
+
+        //WHEN
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i, i);
+        }
+
+        //THEN
+        assertThat(collectKeys(tree.root, leftLeaningNodes())).hasSize(1000);
+        assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+    }
+
+    @Test
+    void insert_existentKeyAdded_valueIsReplaced() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<Integer, String>(Integer::compareTo);
+        tree.insert(4, "value");
+        tree.insert(5, "old-value");
+        tree.insert(2, "value");
+
+        //WHEN
+        tree.insert(5, "new-value");
+
+        //THEN
+        assertThat(collectKeys(tree.root, leftLeaningNodes())).hasSize(3);
+        assertThat(tree.search(5)).contains("new-value");
+        assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+    }
+
+    @Test
+    void search_existingKeyIsRequested_returnsOptionalWithValue() {
+        //GIVEN
+        Object expectedValue = new Object();
+        var tree = new LeftLeaningRedBlackTree<>(Integer::compareTo);
+        tree.insert(4, new Object());
+        tree.insert(8, expectedValue);
+        tree.insert(2, new Object());
+
+        //WHEN
+        Optional<Object> actualValueOptional = tree.search(8);
+
+        //THEN
+        assertThat(actualValueOptional).containsSame(expectedValue);
+    }
+
+    @Test
+    void search_nonExistentKeyIsRequested_returnsEmptyOptional() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<>(Integer::compareTo);
+        tree.insert(4, new Object());
+
+        //WHEN
+        Optional<Object> actualValueOptional = tree.search(10);
+
+        //THEN
+        assertThat(actualValueOptional).isEmpty();
+    }
+
+    @Test
+    void delete_rootIsRequestedToBeDeleted_treeDoesNotContainRequestedKeyAndTreeIsBalanced() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<Integer, Integer>(Integer::compareTo);
+        for (int i = 0; i < 15; i++) {
+            tree.insert(i, i);
+        }
+        Integer rootKey = tree.root.key;
+
+        //WHEN
+        tree.delete(rootKey);
+
+        //THEN
+        assertThat(collectKeys(tree.root, leftLeaningNodes())).hasSize(14).doesNotContain(rootKey);
+        assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+    }
+
+    @Test
+    void delete_lastKeyIsRequestedToBeDeleted_treeIsEmpty() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<>(Integer::compareTo);
+        tree.insert(1, new Object());
+
+        //WHEN
+        tree.delete(1);
+
+        //THEN
+        assertThat(tree.root).isNull();
+    }
+
+    @Test
+    void delete_randomKeysAreRequestedToBeDeleted_remainingKeysArePresentAndTreeIsBalanced() {
+        //GIVEN
+        var keys = randomKeys();
+        var tree = new LeftLeaningRedBlackTree<Integer, Integer>(Integer::compareTo);
+        keys.inserted().forEach(k -> tree.insert(k, k));
+
+        //WHEN
+        keys.deleted().forEach(tree::delete);
+
+        //THEN
+        List<Object> actualKeys = collectKeys(tree.root, leftLeaningNodes());
+        assertThat(actualKeys).doesNotContainAnyElementsOf(keys.deleted());
+        assertThat(actualKeys).containsAll(keys.remaining());
+        assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+    }
+
+    @Test
+    void delete_nonExistentKeyIsRequested_treeHasNotChanged() {
+        //GIVEN
+        var tree = new LeftLeaningRedBlackTree<>(Integer::compareTo);
+        tree.insert(4, new Object());
+        tree.insert(2, new Object());
+        tree.insert(5, new Object());
+
+        //WHEN
+        tree.delete(10);
+
+        //THEN
+        assertThat(collectKeys(tree.root, leftLeaningNodes())).containsExactlyInAnyOrder(4, 2, 5);
+        assertThatTreeIsBalanced(tree.root, leftLeaningNodes());
+    }
+}
@@ -0,0 +1,169 @@
+package datastructure;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions and test data shared by the tests of the left-leaning trees.
+ */
+final class LeftLeaningTreeAssertions {
+
+    private LeftLeaningTreeAssertions() {
+    }
+
+    /**
+     * Read access to the nodes of a tree, so that the same assertions work for every node type.
+     * @param <N> node type.
+     */
+    interface NodeAccess<N> {
+        Object key(N node);
+
+        N leftChild(N node);
+
+        N rightChild(N node);
+
+        boolean isBlack(N node);
+    }
+
+    static <K,V> NodeAccess<LeftLeaningRedBlackTree.Node<K,V>> leftLeaningNodes() {
+        return new NodeAccess<>() {
+            @Override
+            public Object key(LeftLeaningRedBlackTree.Node<K,V> node) {
+                return node.key;
+            }
+
+            @Override
+            public LeftLeaningRedBlackTree.Node<K,V> leftChild(LeftLeaningRedBlackTree.Node<K,V> node) {
+                return node.leftChild;
+            }
+
+            @Override
+            public LeftLeaningRedBlackTree.Node<K,V> rightChild(LeftLeaningRedBlackTree.Node<K,V> node) {
+                return node.rightChild;
+            }
+
+            @Override
+            public boolean isBlack(LeftLeaningRedBlackTree.Node<K,V> node) {
+                return node.isBlack;
+            }
+        };
+    }
+
+    static <K> NodeAccess<RedBlackTreeSet.Node<K>> setNodes() {
+        return new NodeAccess<>() {
+            @Override
+            public Object key(RedBlackTreeSet.Node<K> node) {
+                return node.key;
+            }
+
+            @Override
+            public RedBlackTreeSet.Node<K> leftChild(RedBlackTreeSet.Node<K> node) {
+                return node.leftChild;
+            }
+
+            @Override
+            public RedBlackTreeSet.Node<K> rightChild(RedBlackTreeSet.Node<K> node) {
+                return node.rightChild;
+            }
+
+            @Override
+            public boolean isBlack(RedBlackTreeSet.Node<K> node) {
+                return node.isBlack();
+            }
+        };
+    }
+
+    /**
+     * Checks the root is black, every path has the same number of black nodes,
+     * no red node is a right child and no red node has a red child.
+     */
+    static <N> void assertThatTreeIsBalanced(N root, NodeAccess<N> nodes) {
+        assertThat(root == null || nodes.isBlack(root))
+                .overridingErrorMessage("Tree has RED root")
+                .isTrue();
+        assertThat(findBlackHeight(root, nodes))
+                .overridingErrorMessage("Number of black nodes is not the same")
+                .isNotEqualTo(-1);
+
+        traverse(root, nodes, n -> {
+            N rightChild = nodes.rightChild(n);
+            N leftChild = nodes.leftChild(n);
+            if (isRed(rightChild, nodes)) {
+                throw new AssertionError("Tree contains right-leaning red node: " + nodes.key(rightChild));
+            }
+            if (isRed(n, nodes) && isRed(leftChild, nodes)) {
+                throw new AssertionError("Tree contains consecutive red nodes: "
+                        + nodes.key(n) + " -> " + nodes.key(leftChild));
+            }
+        });
+    }
+
+    static <N> List<Object> collectKeys(N root, NodeAccess<N> nodes) {
+        List<Object> keys = new ArrayList<>();
+        traverse(root, nodes, n -> keys.add(nodes.key(n)));
+        return keys;
+    }
+
+    static <N> void traverse(N root, NodeAccess<N> nodes, Consumer<N> consumer) {
+        if (root == null)
+            return;
+
+        Queue<N> nodeQueue = new LinkedList<>();
+        nodeQueue.add(root);
+        while (!nodeQueue.isEmpty()) {
+            N currentNode = nodeQueue.poll();
+            consumer.accept(currentNode);
+
+            if (nodes.leftChild(currentNode) != null)
+                nodeQueue.add(nodes.leftChild(currentNode));
+
+            if (nodes.rightChild(currentNode) != null)
+                nodeQueue.add(nodes.rightChild(currentNode));
+        }
+    }
+
+    /**
+     * Generates random keys, half of which are then deleted.
+     * @return keys to insert, keys to delete and keys expected to stay in the tree.
+     */
+    static RandomKeys randomKeys() {
+        Random random = new Random(42);
+        List<Integer> insertedKeys = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            insertedKeys.add(random.nextInt(10_000));
+        }
+        List<Integer> deletedKeys = insertedKeys.subList(0, 250);
+        List<Integer> remainingKeys = insertedKeys.subList(250, 500).stream()
+                .filter(k -> !deletedKeys.contains(k))
+                .toList();
+
+        return new RandomKeys(insertedKeys, deletedKeys, remainingKeys);
+    }
+
+    record RandomKeys(List<Integer> inserted, List<Integer> deleted, List<Integer> remaining) {
+    }
+
+    private static <N> int findBlackHeight(N root, NodeAccess<N> nodes) {
+        if (root == null)
+            return 0;
+
+        int leftBlackHeight = findBlackHeight(nodes.leftChild(root), nodes);
+        int rightBlackHeight = findBlackHeight(nodes.rightChild(root), nodes);
+        int currentNodeColor = nodes.isBlack(root) ? 1 : 0;
+
+        if (rightBlackHeight == -1 || leftBlackHeight != rightBlackHeight)
+            return -1;
+
+        return leftBlackHeight + currentNodeColor;
+    }
+
+    private static <N> boolean isRed(N node, NodeAccess<N> nodes) {
+        return node != null && !nodes.isBlack(node);
+    }
+}
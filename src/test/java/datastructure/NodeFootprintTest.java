@@ -0,0 +1,103 @@
+package datastructure;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the memory reachable from the root of each tree with JOL.
+ * Keys and values are {@code Integer}s and are left out, so the figures are the cost of the tree itself.
+ * The measured numbers are printed, so they can be reproduced by running this test.
+ */
+public class NodeFootprintTest {
+
+    private static final int ENTRIES = 10_000;
+
+    @Test
+    void graphLayout_sameKeysInserted_treeReachesOneNodePerEntryAndNothingElse() {
+        //GIVEN
+        GraphLayout redBlackTreeLayout = redBlackTreeLayout();
+        GraphLayout leftLeaningTreeLayout = leftLeaningTreeLayout();
+        GraphLayout setLayout = setLayout();
+
+        //WHEN
+        long redBlackTreeNodes = redBlackTreeLayout.getClassCounts().count(RedBlackTree.Node.class);
+        long leftLeaningNodes = leftLeaningTreeLayout.getClassCounts().count(LeftLeaningRedBlackTree.Node.class);
+        long setNodes = setLayout.getClassCounts().count(RedBlackTreeSet.RedNode.class)
+                + setLayout.getClassCounts().count(RedBlackTreeSet.BlackNode.class);
+
+        //THEN
+        assertThat(redBlackTreeNodes).isEqualTo(ENTRIES);
+        assertThat(leftLeaningNodes).isEqualTo(ENTRIES);
+        assertThat(setNodes)
+                .overridingErrorMessage("Expected %d set nodes but %d are reachable, recolored copies leaked",
+                        ENTRIES, setNodes)
+                .isEqualTo(ENTRIES);
+
+        assertThat(redBlackTreeLayout.getClasses())
+                .containsOnly(RedBlackTree.Node.class, Integer.class);
+        assertThat(leftLeaningTreeLayout.getClasses())
+                .containsOnly(LeftLeaningRedBlackTree.Node.class, Integer.class);
+        assertThat(setLayout.getClasses())
+                .containsOnly(RedBlackTreeSet.RedNode.class, RedBlackTreeSet.BlackNode.class, Integer.class);
+    }
+
+    @Test
+    void totalSize_defaultHotSpotLayout_matchesDocumentedBytesPerEntry() {
+        //GIVEN
+        assumeTrue(VM.current().objectHeaderSize() == 12
+                        && VM.current().sizeOfField("java.lang.Object") == 4
+                        && VM.current().objectAlignment() == 8,
+                "Requires 12-byte headers, compressed references and 8-byte alignment");
+
+        //WHEN
+        double redBlackTreeBytesPerEntry = treeBytesPerEntry(redBlackTreeLayout());
+        double leftLeaningBytesPerEntry = treeBytesPerEntry(leftLeaningTreeLayout());
+        double setBytesPerEntry = treeBytesPerEntry(setLayout());
+
+        System.out.printf("%-26s %16s%n", "tree", "bytes/entry");
+        System.out.printf("%-26s %16.1f%n", "RedBlackTree", redBlackTreeBytesPerEntry);
+        System.out.printf("%-26s %16.1f%n", "LeftLeaningRedBlackTree", leftLeaningBytesPerEntry);
+        System.out.printf("%-26s %16.1f%n", "RedBlackTreeSet", setBytesPerEntry);
+
+        //THEN
+        assertThat(redBlackTreeBytesPerEntry).isEqualTo(40);
+        assertThat(leftLeaningBytesPerEntry).isEqualTo(32);
+        assertThat(setBytesPerEntry).isEqualTo(24);
+    }
+
+    private GraphLayout redBlackTreeLayout() {
+        var tree = new RedBlackTree<Integer, Integer>(Integer::compareTo);
+        for (int i = 0; i < ENTRIES; i++) {
+            tree.insert(i, i);
+        }
+        return GraphLayout.parseInstance(tree.root);
+    }
+
+    private GraphLayout leftLeaningTreeLayout() {
+        var tree = new LeftLeaningRedBlackTree<Integer, Integer>(Integer::compareTo);
+        for (int i = 0; i < ENTRIES; i++) {
+            tree.insert(i, i);
+        }
+        return GraphLayout.parseInstance(tree.root);
+    }
+
+    private GraphLayout setLayout() {
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+        for (int i = 0; i < ENTRIES; i++) {
+            set.insert(i);
+        }
+        return GraphLayout.parseInstance(set.root);
+    }
+
+    /**
+     * Divides the size of everything reachable from the root, except keys and values, by the number of entries.
+     */
+    private double treeBytesPerEntry(GraphLayout layout) {
+        long keysAndValues = layout.getClassSizes().count(Integer.class);
+        return (double) (layout.totalSize() - keysAndValues) / ENTRIES;
+    }
+}
@@ -0,0 +1,144 @@
+package datastructure;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures search latency percentiles while writers keep changing the tree.
+ * Compares {@link CopyOnWriteRedBlackTree} with a {@link LeftLeaningRedBlackTree} guarded by a read-write lock.
+ * Each writer keeps up to {@code inFlight} changes submitted without waiting for them,
+ * so the copy-on-write tree publishes them in batches.
+ * Run with {@code java -cp target/classes:target/test-classes datastructure.ReadLatencyBenchmark
+ * [readers] [writers] [inFlight]}.
+ */
+public class ReadLatencyBenchmark {
+
+    private static final int KEYS = 100_000;
+    private static final int SAMPLES_PER_READER = 2_000_000;
+    private static final int WARMUP_SAMPLES = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int writers = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int inFlight = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+
+        System.out.printf("%-26s %10s %10s %10s %10s %12s%n",
+                "tree", "p50 ns", "p99 ns", "p99.9 ns", "max ns", "avg batch");
+
+        var lockedTree = new LeftLeaningRedBlackTree<Integer, Integer>(Integer::compareTo);
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        AtomicLong lockedChanges = new AtomicLong();
+        for (int i = 0; i < KEYS; i++) {
+            lockedTree.insert(i, i);
+        }
+        run("LeftLeaning + RW lock", readers, writers, inFlight,
+                key -> {
+                    lock.readLock().lock();
+                    try {
+                        lockedTree.search(key);
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                },
+                key -> {
+                    lock.writeLock().lock();
+                    try {
+                        if ((key & 1) == 0) {
+                            lockedTree.insert(key, key);
+                        } else {
+                            lockedTree.delete(key);
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    lockedChanges.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                },
+                lockedChanges::get);
+
+        try (var copyOnWriteTree = new CopyOnWriteRedBlackTree<Integer, Integer>(Integer::compareTo)) {
+            for (int i = 0; i < KEYS; i++) {
+                copyOnWriteTree.insert(i, i);
+            }
+            copyOnWriteTree.insert(KEYS, KEYS).join();
+            run("CopyOnWriteRedBlackTree", readers, writers, inFlight,
+                    copyOnWriteTree::search,
+                    key -> (key & 1) == 0 ? copyOnWriteTree.insert(key, key) : copyOnWriteTree.delete(key),
+                    copyOnWriteTree::publishedBatches);
+        }
+    }
+
+    private static void run(String name, int readers, int writers, int inFlight, IntConsumer search,
+                            IntFunction<CompletableFuture<?>> write, LongSupplier publishedBatches)
+            throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong changes = new AtomicLong();
+        long batchesBefore = publishedBatches.getAsLong();
+
+        Thread[] writerThreads = new Thread[writers];
+        for (int i = 0; i < writers; i++) {
+            writerThreads[i] = new Thread(() -> {
+                Semaphore permits = new Semaphore(inFlight);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    permits.acquireUninterruptibly();
+                    write.apply(random.nextInt(KEYS)).whenComplete((v, e) -> permits.release());
+                    changes.incrementAndGet();
+                }
+                permits.acquireUninterruptibly(inFlight);
+            });
+            writerThreads[i].start();
+        }
+
+        long[][] latencies = new long[readers][];
+        CountDownLatch done = new CountDownLatch(readers);
+        for (int i = 0; i < readers; i++) {
+            int reader = i;
+            new Thread(() -> {
+                latencies[reader] = measure(search);
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        running.set(false);
+        for (Thread writerThread : writerThreads) {
+            writerThread.join();
+        }
+
+        double averageBatch = (double) changes.get() / (publishedBatches.getAsLong() - batchesBefore);
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%-26s %10d %10d %10d %10d %12.1f%n", name,
+                percentile(all, 0.5), percentile(all, 0.99), percentile(all, 0.999), all[all.length - 1],
+                averageBatch);
+    }
+
+    private static long[] measure(IntConsumer search) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < WARMUP_SAMPLES; i++) {
+            search.accept(random.nextInt(KEYS));
+        }
+
+        long[] samples = new long[SAMPLES_PER_READER];
+        for (int i = 0; i < SAMPLES_PER_READER; i++) {
+            int key = random.nextInt(KEYS);
+            long start = System.nanoTime();
+            search.accept(key);
+            samples[i] = System.nanoTime() - start;
+        }
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
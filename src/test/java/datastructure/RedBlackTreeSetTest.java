@@ -0,0 +1,110 @@
+package datastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static datastructure.LeftLeaningTreeAssertions.assertThatTreeIsBalanced;
+import static datastructure.LeftLeaningTreeAssertions.collectKeys;
+import static datastructure.LeftLeaningTreeAssertions.randomKeys;
+import static datastructure.LeftLeaningTreeAssertions.setNodes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RedBlackTreeSetTest {
+
+    @Test
+    void insert_setIsEmpty_newNodeIsAddedAsBlackRoot() {
+        //GIVEN
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+
+        //WHEN
+        set.insert(10);
+
+        //THEN
+        assertThat(set.root.key).isEqualTo(10);
+        assertThat(set.root).isInstanceOf(RedBlackTreeSet.BlackNode.class);
+    }
+
+    @Test
+    void insert_keyIsNull_throwsNullPointerException() {
+        //GIVEN
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+
+        //WHEN
+        assertThatThrownBy(() -> set.insert(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Cannot save null key");
+    }
+
+    @Test
+    void insert_ascendingKeys_setIsBalanced() {
+        //GIVEN
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+
+        //WHEN
+        for (int i = 0; i < 1000; i++) {
+            set.insert(i);
+        }
+
+        //THEN
+        assertThat(collectKeys(set.root, setNodes())).hasSize(1000);
+        assertThatTreeIsBalanced(set.root, setNodes());
+    }
+
+    @Test
+    void insert_existentKeyAdded_setHasNotChanged() {
+        //GIVEN
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+        set.insert(4);
+        set.insert(5);
+        set.insert(2);
+
+        //WHEN
+        set.insert(5);
+
+        //THEN
+        assertThat(collectKeys(set.root, setNodes())).containsExactlyInAnyOrder(4, 5, 2);
+        assertThatTreeIsBalanced(set.root, setNodes());
+    }
+
+    @Test
+    void contains_existingAndNonExistentKeysAreRequested_returnsWhetherKeyIsPresent() {
+        //GIVEN
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+        set.insert(4);
+        set.insert(8);
+
+        //WHEN
+        //THEN
+        assertThat(set.contains(8)).isTrue();
+        assertThat(set.contains(10)).isFalse();
+    }
+
+    @Test
+    void delete_randomKeysAreRequestedToBeDeleted_remainingKeysArePresentAndSetIsBalanced() {
+        //GIVEN
+        var keys = randomKeys();
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+        keys.inserted().forEach(set::insert);
+
+        //WHEN
+        keys.deleted().forEach(set::delete);
+
+        //THEN
+        keys.deleted().forEach(k -> assertThat(set.contains(k)).isFalse());
+        keys.remaining().forEach(k -> assertThat(set.contains(k)).isTrue());
+        assertThatTreeIsBalanced(set.root, setNodes());
+    }
+
+    @Test
+    void delete_lastKeyIsRequestedToBeDeleted_setIsEmpty() {
+        //GIVEN
+        var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+        set.insert(1);
+
+        //WHEN
+        set.delete(1);
+
+        //THEN
+        assertThat(set.root).isNull();
+    }
+}
@@ -396,22 +396,80 @@ public class RedBlackTreeTest {
     @Test
     void delete_blackNodeWithOneChildIsRequestedToBeDeleted_treeDoesNotContainRequestedKeyAndTreeIsBalanced() {
         //GIVEN
+        Integer keyToDelete = 5;
+
+        var tree = new RedBlackTree<>(Integer::compareTo);
+        var root = new RedBlackTree.Node<>(10, new Object(), null, true);
+        var leftRootChild = new RedBlackTree.Node<>(keyToDelete, new Object(), root, true);
+        leftRootChild.leftChild = new RedBlackTree.Node<>(3, new Object(), leftRootChild, false);
+
+        root.leftChild = leftRootChild;
+        root.rightChild = new RedBlackTree.Node<>(20, new Object(), root, true);
+        tree.root = root;
+
         //WHEN
+        tree.delete(keyToDelete);
+
         //THEN
+        assertThatRedBlackTreeDoesNotContainKey(tree, keyToDelete);
+        assertThatRedBlackTreeContainsKey(tree, 3);
+        assertThatRedBlackTreeHasBlackRoot(tree);
+        assertThatRedBlackTreeHasNoConsecutiveRedNodes(tree);
+        assertThatRedBlackTreeHasSameNumberOfBlackNodes(tree);
     }
 
     @Test
     void delete_redNodeWithChildrenIsRequestedToBeDeleted_treeDoesNotContainRequestedKeyAndTreeIsBalanced() {
         //GIVEN
+        Integer keyToDelete = 20;
+
+        var tree = new RedBlackTree<>(Integer::compareTo);
+        var root = new RedBlackTree.Node<>(10, new Object(), null, true);
+        var rightRootChild = new RedBlackTree.Node<>(keyToDelete, new Object(), root, false);
+        rightRootChild.leftChild = new RedBlackTree.Node<>(15, new Object(), rightRootChild, true);
+        rightRootChild.rightChild = new RedBlackTree.Node<>(30, new Object(), rightRootChild, true);
+
+        root.leftChild = new RedBlackTree.Node<>(5, new Object(), root, true);
+        root.rightChild = rightRootChild;
+        tree.root = root;
+
         //WHEN
+        tree.delete(keyToDelete);
+
         //THEN
+        assertThatRedBlackTreeDoesNotContainKey(tree, keyToDelete);
+        assertThatRedBlackTreeContainsKey(tree, 15);
+        assertThatRedBlackTreeContainsKey(tree, 30);
+        assertThatRedBlackTreeHasBlackRoot(tree);
+        assertThatRedBlackTreeHasNoConsecutiveRedNodes(tree);
+        assertThatRedBlackTreeHasSameNumberOfBlackNodes(tree);
     }
 
     @Test
     void delete_blackNodeWithChildrenIsRequestedToBeDeleted_treeDoesNotContainRequestedKeyAndTreeIsBalanced() {
         //GIVEN
+        Integer keyToDelete = 5;
+
+        var tree = new RedBlackTree<>(Integer::compareTo);
+        var root = new RedBlackTree.Node<>(10, new Object(), null, true);
+        var leftRootChild = new RedBlackTree.Node<>(keyToDelete, new Object(), root, true);
+        leftRootChild.leftChild = new RedBlackTree.Node<>(1, new Object(), leftRootChild, false);
+        leftRootChild.rightChild = new RedBlackTree.Node<>(7, new Object(), leftRootChild, false);
+
+        root.leftChild = leftRootChild;
+        root.rightChild = new RedBlackTree.Node<>(20, new Object(), root, true);
+        tree.root = root;
+
         //WHEN
+        tree.delete(keyToDelete);
+
         //THEN
+        assertThatRedBlackTreeDoesNotContainKey(tree, keyToDelete);
+        assertThatRedBlackTreeContainsKey(tree, 1);
+        assertThatRedBlackTreeContainsKey(tree, 7);
+        assertThatRedBlackTreeHasBlackRoot(tree);
+        assertThatRedBlackTreeHasNoConsecutiveRedNodes(tree);
+        assertThatRedBlackTreeHasSameNumberOfBlackNodes(tree);
     }
 
     @Test
@@ -431,6 +489,67 @@ public class RedBlackTreeTest {
         assertThatRedBlackTreeHasSameNumberOfBlackNodes(tree);
     }
 
+    @Test
+    void delete_allKeysAreRequestedToBeDeleted_treeIsEmpty() {
+        //GIVEN
+        var tree = new RedBlackTree<Integer, Integer>(Integer::compareTo);
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i, i);
+        }
+
+        //WHEN
+        for (int i = 0; i < 100; i += 2) {
+            tree.delete(i);
+            assertThatRedBlackTreeHasBlackRoot(tree);
+            assertThatRedBlackTreeHasNoConsecutiveRedNodes(tree);
+            assertThatRedBlackTreeHasSameNumberOfBlackNodes(tree);
+        }
+        for (int i = 1; i < 100; i += 2) {
+            tree.delete(i);
+        }
+
+        //THEN
+        assertThat(tree.root).isNull();
+    }
+
+    @Test
+    void insert_treeHasChangeFeed_insertAndUpdateArePublished() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, String>(16);
+        var tree = new RedBlackTree<>(Integer::compareTo, feed);
+        List<ChangeEvent<Integer, String>> events = new ArrayList<>();
+
+        //WHEN
+        tree.insert(5, "old-value");
+        tree.insert(5, "new-value");
+        feed.drain(0, 16, events::add);
+
+        //THEN
+        assertThat(events).containsExactly(
+                new ChangeEvent<>(0, ChangeEvent.Type.INSERT, 5, "old-value"),
+                new ChangeEvent<>(1, ChangeEvent.Type.UPDATE, 5, "new-value"));
+    }
+
+    @Test
+    void delete_treeHasChangeFeed_deletedKeyAndValueArePublished() {
+        //GIVEN
+        var feed = new ChangeFeed<Integer, String>(16);
+        var tree = new RedBlackTree<>(Integer::compareTo, feed);
+        tree.insert(4, "root-value");
+        tree.insert(2, "value");
+        tree.insert(6, "value");
+        long fromSequence = feed.nextSequence();
+        List<ChangeEvent<Integer, String>> events = new ArrayList<>();
+
+        //WHEN
+        tree.delete(4);
+        tree.delete(10);
+        feed.drain(fromSequence, 16, events::add);
+
+        //THEN
+        assertThat(events).containsExactly(new ChangeEvent<>(3, ChangeEvent.Type.DELETE, 4, "root-value"));
+    }
+
     private <K, V> void assertThatRedBlackTreeHasBlackRoot(RedBlackTree<K, V> tree) {
         assertThat(isBlack(tree.root))
                 .overridingErrorMessage("Tree has RED root")
@@ -0,0 +1,88 @@
+package datastructure;
+
+import java.lang.ref.Reference;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Compares memory per entry and insert throughput of {@link RedBlackTree}, {@link LeftLeaningRedBlackTree}
+ * and {@link RedBlackTreeSet}. The set keeps the color in the node class, so every recolor allocates a new node;
+ * the inserts/ms column shows what that costs against the smaller nodes.
+ * Run with {@code java -cp target/classes:target/test-classes datastructure.TreeEngineBenchmark [entries]}.
+ */
+public class TreeEngineBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Integer[] sequentialKeys = new Integer[entries];
+        Integer[] randomKeys = new Integer[entries];
+        Random random = new Random(42);
+        for (int i = 0; i < entries; i++) {
+            sequentialKeys[i] = i;
+            randomKeys[i] = random.nextInt();
+        }
+
+        System.out.printf("%-26s %-10s %14s %16s%n", "engine", "keys", "bytes/entry", "inserts/ms");
+        for (boolean sequential : new boolean[]{true, false}) {
+            String order = sequential ? "sequential" : "random";
+            Integer[] keys = sequential ? sequentialKeys : randomKeys;
+
+            report("RedBlackTree", order, entries, () -> {
+                var tree = new RedBlackTree<Integer, Integer>(Integer::compareTo);
+                fill(keys, k -> tree.insert(k, k));
+                return tree;
+            });
+            report("LeftLeaningRedBlackTree", order, entries, () -> {
+                var tree = new LeftLeaningRedBlackTree<Integer, Integer>(Integer::compareTo);
+                fill(keys, k -> tree.insert(k, k));
+                return tree;
+            });
+            report("RedBlackTreeSet", order, entries, () -> {
+                var set = new RedBlackTreeSet<Integer>(Integer::compareTo);
+                fill(keys, set::insert);
+                return set;
+            });
+        }
+    }
+
+    private static void fill(Integer[] keys, Consumer<Integer> insert) {
+        for (Integer key : keys) {
+            insert.accept(key);
+        }
+    }
+
+    private static void report(String engine, String order, int entries, Supplier<Object> filledTree) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            filledTree.get();
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            filledTree.get();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        long before = usedMemory();
+        Object tree = filledTree.get();
+        long after = usedMemory();
+
+        // Keys and values are boxed up front, so the difference is made of the nodes themselves.
+        double bytesPerEntry = (double) (after - before) / entries;
+        double insertsPerMs = entries / (bestNanos / 1_000_000.0);
+        System.out.printf("%-26s %-10s %14.1f %16.0f%n", engine, order, bytesPerEntry, insertsPerMs);
+        Reference.reachabilityFence(tree);
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
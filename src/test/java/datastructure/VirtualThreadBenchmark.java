@@ -0,0 +1,88 @@
+package datastructure;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures throughput of tiny search/insert calls issued from many virtual threads.
+ * Compares {@link AsyncRedBlackTreeService} with a {@link RedBlackTree} guarded by a {@link ReentrantLock}.
+ * Run with {@code java -cp target/classes:target/test-classes datastructure.VirtualThreadBenchmark
+ * [threads] [batchSize] [lingerMicros]}.
+ */
+public class VirtualThreadBenchmark {
+
+    private static final int KEYS = 100_000;
+    private static final int OPERATIONS_PER_THREAD = 200;
+    private static final int INSERT_PERCENTAGE = 10;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        Duration linger = Duration.ofNanos(1_000L * (args.length > 2 ? Integer.parseInt(args[2]) : 50));
+
+        System.out.printf("%-26s %10s %14s%n", "tree", "round", "ops/ms");
+
+        var lockedTree = new RedBlackTree<Integer, Integer>(Integer::compareTo);
+        var lock = new ReentrantLock();
+        for (int i = 0; i < KEYS; i += 2) {
+            lockedTree.insert(i, i);
+        }
+        for (int round = 1; round <= ROUNDS; round++) {
+            run("RedBlackTree + lock", round, threads, key -> {
+                lock.lock();
+                try {
+                    if (isInsert(key)) {
+                        lockedTree.insert(key, key);
+                    } else {
+                        lockedTree.search(key);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            });
+        }
+
+        try (var service = new AsyncRedBlackTreeService<Integer, Integer>(Integer::compareTo, batchSize, linger)) {
+            CompletableFuture<Void> prefill = CompletableFuture.completedFuture(null);
+            for (int i = 0; i < KEYS; i += 2) {
+                prefill = service.insert(i, i);
+            }
+            prefill.join();
+            for (int round = 1; round <= ROUNDS; round++) {
+                run("AsyncRedBlackTreeService", round, threads, key -> {
+                    if (isInsert(key)) {
+                        service.insert(key, key).join();
+                    } else {
+                        service.search(key).join();
+                    }
+                });
+            }
+        }
+    }
+
+    private static boolean isInsert(int key) {
+        return key % 100 < INSERT_PERCENTAGE;
+    }
+
+    private static void run(String name, int round, int threads, IntConsumer operation) {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                        operation.accept(random.nextInt(KEYS));
+                    }
+                });
+            }
+        }
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        System.out.printf("%-26s %10d %14.0f%n", name, round, (long) threads * OPERATIONS_PER_THREAD / elapsedMs);
+    }
+}